@@ -1,18 +1,36 @@
 package main;
 
+import service.ShardedUniversityService;
 import service.UniversityService;
 import util.InputValidator;
 import exceptions.InvalidInputException;
 import model.Course;
 import model.Assessment;
 
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.Scanner;
 import java.util.List;
 
 public class Main {
-    public static void main(String[] args) {
-        UniversityService svc = new UniversityService();
+    private static final String USAGE = "Usage: Main [--shards N]   (N > 0 partitions courses and marks across N local worker JVMs)";
+
+    public static void main(String[] args) throws IOException {
+        UniversityService svc;
+        if (args.length == 0) {
+            svc = new UniversityService();
+        } else if (args.length == 2 && args[0].equals("--shards")) {
+            try {
+                svc = new ShardedUniversityService(Integer.parseInt(args[1]));
+            } catch (IllegalArgumentException ex) { // also covers NumberFormatException
+                System.out.println("Invalid shard count '" + args[1] + "': " + ex.getMessage());
+                System.out.println(USAGE);
+                return;
+            }
+        } else {
+            System.out.println(USAGE);
+            return;
+        }
         Scanner sc = new Scanner(System.in);
 
         while (true) {
@@ -0,0 +1,107 @@
+package main;
+
+import service.ShardedUniversityService;
+import service.UniversityService;
+import exceptions.InvalidInputException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.*;
+
+/**
+ * ShardCheck runs one scripted scenario against the single-JVM service and against
+ * sharded deployments, and fails if any printed output or error message differs.
+ * Run: java -cp <classes> main.ShardCheck   (exit code 0 = all modes match)
+ */
+public class ShardCheck {
+    private interface Step { void run(UniversityService svc) throws InvalidInputException; }
+
+    public static void main(String[] args) throws Exception {
+        List<String> expected = runScenario(new UniversityService());
+        boolean ok = true;
+        for (int shards : new int[] {1, 2, 3}) {
+            List<String> actual;
+            try (ShardedUniversityService svc = new ShardedUniversityService(shards)) {
+                actual = runScenario(svc);
+            }
+            if (actual.equals(expected)) {
+                System.out.println("shards=" + shards + ": OK (" + actual.size() + " lines match)");
+            } else {
+                ok = false;
+                System.out.println("shards=" + shards + ": MISMATCH");
+                for (int i = 0; i < Math.max(actual.size(), expected.size()); i++) {
+                    String e = i < expected.size() ? expected.get(i) : "<none>";
+                    String a = i < actual.size() ? actual.get(i) : "<none>";
+                    if (!e.equals(a)) System.out.println("  line " + i + ": expected [" + e + "] got [" + a + "]");
+                }
+            }
+        }
+        if (!ok) System.exit(1);
+    }
+
+    private static List<String> runScenario(UniversityService svc) {
+        List<String> log = new ArrayList<>();
+        Step[] steps = {
+            s -> s.addCourse("CS101", "Intro", 4),
+            s -> s.addCourse("MA201", "Maths", 3),
+            s -> s.addCourse("PH1", "Physics", 2),
+            s -> s.addCourse("CS101", "Again", 4),                 // duplicate
+            s -> s.addStudent("S1", "Alice"),
+            s -> s.addStudent("S2", "Bob"),
+            // S2 reaches CS101's shard before S1 (grade sheet must still list S1 first)
+            s -> s.registerStudentToCourse("S2", "CS101"),
+            s -> s.registerStudentToCourse("S1", "MA201"),
+            s -> s.registerStudentToCourse("S1", "CS101"),
+            s -> s.registerStudentToCourse("S1", "PH1"),
+            s -> s.registerStudentToCourse("S9", "CS101"),         // unknown student
+            s -> s.registerStudentToCourse("S2", "XX9"),           // unknown course
+            s -> s.createAssessment("CS101", "A1", "Exam", 60, 100),
+            s -> s.createAssessment("CS101", "A2", "Quiz", 40, 20),
+            s -> s.createAssessment("CS101", "A3", "Extra", 10, 10), // exceeds 100%
+            s -> s.createAssessment("MA201", "B1", "Final", 100, 50),
+            s -> s.createAssessment("PH1", "P1", "Lab", 100, 10),
+            // marks recorded in an order that differs from shard order
+            s -> s.recordMark("S1", "MA201", "B1", 20, false),
+            s -> s.recordMark("S1", "CS101", "A1", 90, false),
+            s -> s.recordMark("S1", "PH1", "P1", 7, false),
+            s -> s.recordMark("S1", "CS101", "A2", 15, false),
+            s -> s.recordMark("S2", "CS101", "A1", 30, false),
+            s -> s.recordMark("S2", "CS101", "A1", 45, true),       // resit improves
+            s -> s.recordMark("S1", "MA201", "B1", 30, true),
+            s -> s.recordMark("S1", "MA201", "B1", 10, true),       // not eligible any more
+            s -> s.recordMark("S2", "MA201", "B1", 40, false),      // not registered
+            s -> s.recordMark("S1", "CS101", "ZZ", 1, false),       // unknown assessment
+            s -> s.recordMark("S1", "CS101", "A1", 500, false),     // out of range
+            s -> log.add("total S1/CS101 = " + s.computeTotalPercent("S1", "CS101")),
+            // reverse of S1's registration order, and not shard order for 2 or 3 shards
+            s -> s.publishGradesForCourse("PH1"),
+            s -> s.publishGradesForCourse("CS101"),
+            s -> s.publishGradesForCourse("MA201"),
+            s -> s.generateTranscriptForStudent("S1"),
+            s -> s.generateTranscriptForStudent("S2"),
+            s -> s.gradeSheetForCourse("CS101"),
+            s -> s.assessmentAnalytics("MA201"),
+            s -> s.listMarks().forEach(m -> log.add(m.toString())),
+            s -> s.printAllMarks(),
+        };
+        for (int i = 0; i < steps.length; i++) {
+            log.add("-- step " + i);
+            log.addAll(captureOutput(svc, steps[i]));
+        }
+        return log;
+    }
+
+    private static List<String> captureOutput(UniversityService svc, Step step) {
+        PrintStream previous = System.out;
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(buf, true));
+        try {
+            step.run(svc);
+        } catch (InvalidInputException ex) {
+            System.out.println("error: " + ex.getMessage());
+        } finally {
+            System.setOut(previous);
+        }
+        return buf.toString().lines().toList();
+    }
+}
@@ -0,0 +1,135 @@
+package service;
+
+import model.*;
+import exceptions.InvalidInputException;
+
+import java.io.*;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * ShardWorker is one partition of a sharded deployment:
+ * - owns the courses (and their assessments, registrations and marks) hashed to it
+ * - runs in its own JVM, spawned by ShardedUniversityService
+ * - talks to the coordinator over its stdin/stdout pipes
+ *
+ * Wire format (DataInput/DataOutput):
+ *   request  = command (UTF), argc (int), args (UTF each)
+ *   response = ok (boolean), then either count (int) + values (UTF each) or an error message (UTF)
+ * The worker exits when the coordinator closes its stdin.
+ */
+public class ShardWorker {
+    private final UniversityService svc = new UniversityService();
+    // "sid|cid|aid" -> coordinator sequence number of the first accepted mark, so marks list in recording order
+    private final Map<String, Long> markSeq = new HashMap<>();
+
+    public static void main(String[] args) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(System.in));
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)));
+        // stdout is the reply channel; keep stray prints off it
+        System.setOut(System.err);
+
+        ShardWorker worker = new ShardWorker();
+        while (true) {
+            String cmd;
+            try {
+                cmd = in.readUTF();
+            } catch (EOFException e) {
+                return; // coordinator went away
+            }
+            String[] a = new String[in.readInt()];
+            for (int i = 0; i < a.length; i++) a[i] = in.readUTF();
+
+            try {
+                List<String> result = worker.handle(cmd, a);
+                out.writeBoolean(true);
+                out.writeInt(result.size());
+                for (String v : result) out.writeUTF(v);
+            } catch (InvalidInputException | RuntimeException ex) {
+                out.writeBoolean(false);
+                out.writeUTF(ex.getMessage() == null ? ex.toString() : ex.getMessage());
+            }
+            out.flush();
+        }
+    }
+
+    List<String> handle(String cmd, String[] a) throws InvalidInputException {
+        switch (cmd) {
+            case "ADD_COURSE" -> svc.addCourse(a[0], a[1], Integer.parseInt(a[2]));
+            case "CREATE_ASSESSMENT" -> svc.createAssessment(a[0], a[1], a[2], Double.parseDouble(a[3]), Double.parseDouble(a[4]));
+            case "SCHEDULE_EXAM" -> svc.scheduleExam(a[0], LocalDate.parse(a[1]), a[2]);
+            case "REGISTER" -> {
+                // students are replicated lazily: only shards owning one of their courses know them
+                if (svc.getStudent(a[0]) == null) svc.addStudent(a[0], a[1]);
+                svc.registerStudentToCourse(a[0], a[2]);
+            }
+            case "RECORD_MARK" -> {
+                svc.recordMark(a[0], a[1], a[2], Double.parseDouble(a[3]), Boolean.parseBoolean(a[4]));
+                markSeq.putIfAbsent(a[0] + "|" + a[1] + "|" + a[2], Long.parseLong(a[5]));
+            }
+            case "TOTAL" -> {
+                return List.of(Double.toString(svc.computeTotalPercent(a[0], a[1])));
+            }
+            case "PUBLISH" -> svc.publishGradesForCourse(a[0]);
+            case "GRADES" -> {
+                // flat list: cid, letter, gradePoint, totalPercent per published course
+                List<String> out = new ArrayList<>();
+                Student s = svc.getStudent(a[0]);
+                if (s == null) return out;
+                for (Map.Entry<String, Grade> e : s.getTranscript().getGrades().entrySet()) {
+                    Grade g = e.getValue();
+                    out.add(e.getKey());
+                    out.add(g.getLetter());
+                    out.add(Double.toString(g.getGradePoint()));
+                    out.add(Double.toString(g.getTotalPercent()));
+                }
+                return out;
+            }
+            case "TOTALS" -> {
+                // flat list: sid, totalPercent per registered student (the coordinator orders and prints them)
+                List<String> out = new ArrayList<>();
+                Course c = svc.getCourse(a[0]);
+                if (c == null) throw new InvalidInputException("Course not found");
+                for (Student s : svc.listStudents()) {
+                    if (!s.isRegisteredFor(c)) continue;
+                    out.add(s.getId());
+                    out.add(Double.toString(svc.computeTotalPercent(s.getId(), a[0])));
+                }
+                return out;
+            }
+            case "ANALYTICS" -> {
+                return captureOutput(() -> svc.assessmentAnalytics(a[0]));
+            }
+            case "MARKS" -> {
+                // flat list: seq, sid, cid, aid, marksObtained, resit per entry
+                List<String> out = new ArrayList<>();
+                for (MarkEntry m : svc.listMarks()) {
+                    out.add(String.valueOf(markSeq.get(m.getStudentId() + "|" + m.getCourseId() + "|" + m.getAssessmentId())));
+                    out.add(m.getStudentId());
+                    out.add(m.getCourseId());
+                    out.add(m.getAssessmentId());
+                    out.add(Double.toString(m.getMarksObtained()));
+                    out.add(Boolean.toString(m.isResit()));
+                }
+                return out;
+            }
+            default -> throw new InvalidInputException("Unknown shard command: " + cmd);
+        }
+        return List.of();
+    }
+
+    // ---- Run a printing service call and hand its lines back to the coordinator ----
+    private interface Report { void run() throws InvalidInputException; }
+
+    private static List<String> captureOutput(Report report) throws InvalidInputException {
+        PrintStream previous = System.out;
+        ByteArrayOutputStream buf = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(buf, true));
+        try {
+            report.run();
+        } finally {
+            System.setOut(previous);
+        }
+        return buf.toString().lines().toList();
+    }
+}
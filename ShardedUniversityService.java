@@ -0,0 +1,271 @@
+package service;
+
+import model.*;
+import exceptions.InvalidInputException;
+
+import java.io.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * ShardedUniversityService is the coordinator of a partitioned deployment:
+ * - spawns N ShardWorker JVMs and talks to them over stdin/stdout pipes
+ * - places each course (its assessments, registrations and marks) on shard hash(courseId) mod N
+ * - keeps only the course catalogue and student directory locally (for validation, credits and display);
+ *   the shard is written first, so the local copy never holds state its shard rejected
+ * - publishes grades on the owning shard
+ * - assembles transcripts/GPA by scatter-gathering published grades from the shards a student is enrolled on
+ */
+public class ShardedUniversityService extends UniversityService implements AutoCloseable {
+    private final List<ShardClient> shards = new ArrayList<>();
+    private final ExecutorService pool;
+    private final Thread shutdownHook = new Thread(this::close);
+    // sid -> courses in the order their grades were published for that student (plain mode's transcript order)
+    private final Map<String, Set<String>> publishOrder = new HashMap<>();
+    private long markSeq; // global recording order for marks held on different shards
+
+    public ShardedUniversityService(int shardCount) throws IOException {
+        if (shardCount <= 0) throw new IllegalArgumentException("Shard count must be > 0");
+        for (int i = 0; i < shardCount; i++) shards.add(new ShardClient(i));
+        pool = Executors.newFixedThreadPool(shardCount, r -> {
+            Thread t = new Thread(r, "shard-scatter");
+            t.setDaemon(true); // must not keep the console app alive after Exit
+            return t;
+        });
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    private int shardFor(String cid) { return Math.floorMod(cid.hashCode(), shards.size()); }
+
+    private ShardClient ownerOf(String cid) { return shards.get(shardFor(cid)); }
+
+    // ---- Course & Student management (shard first, then the local catalogue) ----
+    // The shard runs the same validation as super, so super only fails if the shard did too.
+    @Override
+    public void addCourse(String cid, String title, int credits) throws InvalidInputException {
+        if (cid == null || title == null || cid.isBlank() || title.isBlank()) throw new InvalidInputException("Invalid course data");
+        ownerOf(cid).call("ADD_COURSE", cid, title, String.valueOf(credits));
+        super.addCourse(cid, title, credits);
+    }
+
+    @Override
+    public void registerStudentToCourse(String sid, String cid) throws InvalidInputException {
+        Student s = getStudent(sid);
+        if (s == null) throw new InvalidInputException("Student not found");
+        if (getCourse(cid) == null) throw new InvalidInputException("Course not found");
+        ownerOf(cid).call("REGISTER", sid, s.getName(), cid);
+        super.registerStudentToCourse(sid, cid);
+    }
+
+    @Override
+    public void createAssessment(String cid, String aid, String name, double weightage, double maxMarks) throws InvalidInputException {
+        if (getCourse(cid) == null) throw new InvalidInputException("Course not found");
+        ownerOf(cid).call("CREATE_ASSESSMENT", cid, aid, name, Double.toString(weightage), Double.toString(maxMarks));
+        super.createAssessment(cid, aid, name, weightage, maxMarks);
+    }
+
+    @Override
+    public void scheduleExam(String cid, LocalDate date, String venue) throws InvalidInputException {
+        if (getCourse(cid) == null) throw new InvalidInputException("Course not found");
+        ownerOf(cid).call("SCHEDULE_EXAM", cid, date.toString(), venue);
+        super.scheduleExam(cid, date, venue);
+    }
+
+    // ---- Marks live only on the owning shard ----
+    @Override
+    public void recordMark(String sid, String cid, String aid, double marksObtained, boolean isResit) throws InvalidInputException {
+        // same checks and messages as super, answered from the local directory
+        Student s = getStudent(sid);
+        Course c = getCourse(cid);
+        if (s == null) throw new InvalidInputException("Student not found");
+        if (c == null) throw new InvalidInputException("Course not found");
+        if (!s.isRegisteredFor(c)) throw new InvalidInputException("Student not registered for course");
+        ownerOf(cid).call("RECORD_MARK", sid, cid, aid, Double.toString(marksObtained), Boolean.toString(isResit), Long.toString(++markSeq));
+    }
+
+    @Override
+    public double computeTotalPercent(String sid, String cid) {
+        if (getCourse(cid) == null || getStudent(sid) == null) return 0.0;
+        try {
+            return Double.parseDouble(ownerOf(cid).call("TOTAL", sid, cid).get(0));
+        } catch (InvalidInputException ex) {
+            throw new IllegalStateException(ex.getMessage(), ex);
+        }
+    }
+
+    @Override
+    public void publishGradesForCourse(String cid) throws InvalidInputException {
+        Course c = getCourse(cid);
+        if (c == null) throw new InvalidInputException("Course not found");
+        ownerOf(cid).call("PUBLISH", cid);
+        for (Student s : listStudents()) {
+            if (s.isRegisteredFor(c)) publishOrder.computeIfAbsent(s.getId(), k -> new LinkedHashSet<>()).add(cid);
+        }
+    }
+
+    // ---- Transcript: gather published grades from every shard the student is enrolled on ----
+    @Override
+    public void generateTranscriptForStudent(String sid) throws InvalidInputException {
+        Student s = getStudent(sid);
+        if (s == null) throw new InvalidInputException("Student not found");
+        Set<Integer> owners = new TreeSet<>();
+        for (Course c : s.getRegisteredCourses()) owners.add(shardFor(c.getCourseId()));
+
+        Map<String, Grade> gathered = new HashMap<>();
+        for (List<String> rows : scatter(owners, "GRADES", sid).values()) {
+            for (int i = 0; i + 3 < rows.size(); i += 4) {
+                Grade g = new Grade(rows.get(i + 1), Double.parseDouble(rows.get(i + 2)), Double.parseDouble(rows.get(i + 3)));
+                gathered.put(rows.get(i), g);
+            }
+        }
+        // merge in publish order, not shard order
+        for (String cid : publishOrder.getOrDefault(sid, Set.of())) {
+            Grade g = gathered.get(cid);
+            if (g != null) s.getTranscript().addOrUpdateGrade(cid, g);
+        }
+        // GPA (by local credits) and printing are unchanged
+        super.generateTranscriptForStudent(sid);
+    }
+
+    // ---- Per-course reports: analytics rendered by the owning shard, grade sheet rows ordered here ----
+    @Override
+    public void assessmentAnalytics(String cid) throws InvalidInputException {
+        if (getCourse(cid) == null) throw new InvalidInputException("Course not found");
+        ownerOf(cid).call("ANALYTICS", cid).forEach(System.out::println);
+    }
+
+    @Override
+    public void gradeSheetForCourse(String cid) throws InvalidInputException {
+        Course c = getCourse(cid);
+        if (c == null) throw new InvalidInputException("Course not found");
+        List<String> rows = ownerOf(cid).call("TOTALS", cid);
+        Map<String, Double> totals = new HashMap<>();
+        for (int i = 0; i + 1 < rows.size(); i += 2) totals.put(rows.get(i), Double.parseDouble(rows.get(i + 1)));
+
+        System.out.println("Grade Sheet for " + c);
+        System.out.printf("%-10s %-25s %-12s %-10s\n", "StudentID", "StudentName", "Total(%)", "Grade");
+        for (Student s : listStudents()) {
+            if (!s.isRegisteredFor(c)) continue;
+            double pct = totals.getOrDefault(s.getId(), 0.0);
+            Grade g = deriveGrade(pct);
+            System.out.printf("%-10s %-25s %-12.2f %-10s\n", s.getId(), s.getName(), pct, g.getLetter());
+        }
+    }
+
+    // ---- Marks from every shard, rebuilt from seq, sid, cid, aid, marks, resit per entry ----
+    @Override
+    public List<MarkEntry> listMarks() {
+        List<Integer> all = new ArrayList<>();
+        for (int i = 0; i < shards.size(); i++) all.add(i);
+        Map<Long, MarkEntry> bySeq = new TreeMap<>(); // recording order across shards
+        for (List<String> rows : scatter(all, "MARKS").values()) {
+            for (int i = 0; i + 5 < rows.size(); i += 6) {
+                bySeq.put(Long.parseLong(rows.get(i)), new MarkEntry(rows.get(i + 1), rows.get(i + 2), rows.get(i + 3),
+                        Double.parseDouble(rows.get(i + 4)), Boolean.parseBoolean(rows.get(i + 5))));
+            }
+        }
+        return new ArrayList<>(bySeq.values());
+    }
+
+    @Override
+    public void printAllMarks() {
+        System.out.println("All recorded marks:");
+        listMarks().forEach(m -> System.out.println(m));
+    }
+
+    // ---- Scatter one command to several shards in parallel, gather replies by shard index ----
+    private Map<Integer, List<String>> scatter(Collection<Integer> targets, String cmd, String... args) {
+        Map<Integer, Future<List<String>>> pending = new TreeMap<>();
+        for (int i : targets) {
+            ShardClient shard = shards.get(i);
+            pending.put(i, pool.submit(() -> shard.call(cmd, args)));
+        }
+        Map<Integer, List<String>> replies = new TreeMap<>();
+        for (Map.Entry<Integer, Future<List<String>>> e : pending.entrySet()) {
+            try {
+                replies.put(e.getKey(), e.getValue().get());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted waiting for shard " + e.getKey(), ex);
+            } catch (ExecutionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException re) throw re;
+                throw new IllegalStateException("Shard " + e.getKey() + ": " + cause.getMessage(), cause);
+            }
+        }
+        return replies;
+    }
+
+    @Override
+    public void close() {
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException ex) {
+            // already shutting down (we may be running inside the hook)
+        }
+        pool.shutdownNow();
+        for (ShardClient shard : shards) shard.close();
+    }
+
+    // ---- One worker process and its pipe ----
+    private static class ShardClient {
+        private final int index;
+        private final Process process;
+        private final DataOutputStream out;
+        private final DataInputStream in;
+
+        ShardClient(int index) throws IOException {
+            this.index = index;
+            this.process = new ProcessBuilder(workerCommand())
+                    .redirectError(ProcessBuilder.Redirect.INHERIT)
+                    .start();
+            this.out = new DataOutputStream(new BufferedOutputStream(process.getOutputStream()));
+            this.in = new DataInputStream(new BufferedInputStream(process.getInputStream()));
+        }
+
+        // Relaunch this JVM's own java binary and class/module path with ShardWorker as entry point
+        private static List<String> workerCommand() {
+            String java = ProcessHandle.current().info().command()
+                    .orElse(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+            List<String> cmd = new ArrayList<>(List.of(java));
+            Module module = ShardWorker.class.getModule();
+            String modulePath = System.getProperty("jdk.module.path");
+            if (module.isNamed() && modulePath != null) {
+                cmd.addAll(List.of("-p", modulePath, "-m", module.getName() + "/" + ShardWorker.class.getName()));
+            } else {
+                cmd.addAll(List.of("-cp", System.getProperty("java.class.path"), ShardWorker.class.getName()));
+            }
+            return cmd;
+        }
+
+        synchronized List<String> call(String cmd, String... args) throws InvalidInputException {
+            try {
+                out.writeUTF(cmd);
+                out.writeInt(args.length);
+                for (String a : args) out.writeUTF(a);
+                out.flush();
+
+                if (!in.readBoolean()) throw new InvalidInputException(in.readUTF());
+                List<String> result = new ArrayList<>();
+                int n = in.readInt();
+                for (int i = 0; i < n; i++) result.add(in.readUTF());
+                return result;
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Shard " + index + " unavailable", ex);
+            }
+        }
+
+        void close() {
+            try {
+                out.close(); // worker exits on EOF
+                if (!process.waitFor(2, TimeUnit.SECONDS)) process.destroyForcibly();
+            } catch (IOException ex) {
+                process.destroyForcibly();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                process.destroyForcibly();
+            }
+        }
+    }
+}
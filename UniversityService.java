@@ -219,6 +219,7 @@ public class UniversityService {
     public List<Student> listStudents() { return new ArrayList<>(students.values()); }
     public Course getCourse(String cid) { return courses.get(cid); }
     public Student getStudent(String sid) { return students.get(sid); }
+    public List<MarkEntry> listMarks() { return new ArrayList<>(marks.values()); }
 
     // For debugging / show raw marks
     public void printAllMarks() {